@@ -0,0 +1,86 @@
+#!/usr/bin/env bash
+# Mesure le temps entre le lancement de la JVM et la première requête réussie (time-to-first-successful-request),
+# pour le jar standard et pour le profil fast-startup (AOT + archive CDS + beans non critiques en lazy).
+#
+# La requête mesurée est un POST /auth/login : elle traverse la sécurité, JPA/Hibernate, BCrypt et la signature JWT,
+# c'est-à-dire le chemin chaud qu'un client attend réellement au démarrage.
+#
+# Prérequis : mvn -Pfast-startup package (produit les deux jars), PostgreSQL démarré et migré,
+#             un compte existant pour BENCHMARK_EMAIL / BENCHMARK_PASSWORD,
+#             des clés de signature configurées (jwt.signing.*, par ex. JWT_SIGNING_ACTIVEKID,
+#             JWT_SIGNING_KEYS_0_KID, JWT_SIGNING_KEYS_0_PRIVATEKEY, JWT_SIGNING_KEYS_0_PUBLICKEY) :
+#             sans clé l'application refuse de démarrer.
+# Usage     : BENCHMARK_EMAIL=... BENCHMARK_PASSWORD=... scripts/startup-benchmark.sh [itérations]
+# Variables : BENCHMARK_URL (par défaut http://localhost:8080/auth/login)
+
+set -euo pipefail
+
+ITERATIONS=${1:-5}
+URL=${BENCHMARK_URL:-http://localhost:8080/auth/login}
+: "${BENCHMARK_EMAIL:?BENCHMARK_EMAIL requis (compte existant)}"
+: "${BENCHMARK_PASSWORD:?BENCHMARK_PASSWORD requis}"
+LOGIN_BODY=$(printf '{"email":"%s","password":"%s"}' "$BENCHMARK_EMAIL" "$BENCHMARK_PASSWORD")
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+STANDARD_JAR="$ROOT/target/gestion_utilisateur-0.0.1-SNAPSHOT.jar"
+FAST_DIR="$ROOT/target/fast-startup"
+FAST_JAR="gestion_utilisateur-0.0.1-SNAPSHOT-fast-startup.jar"
+
+for file in "$STANDARD_JAR" "$FAST_DIR/$FAST_JAR" "$FAST_DIR/application.jsa"; do
+    if [ ! -f "$file" ]; then
+        echo "Fichier manquant : $file (lancer d'abord : mvn -Pfast-startup package)" >&2
+        exit 1
+    fi
+done
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# Lance la JVM dans le répertoire $1 avec les arguments suivants, affiche le délai en ms jusqu'au premier 2xx
+measure() {
+    local dir=$1
+    shift
+    local start end pid
+    start=$(now_ms)
+    (cd "$dir" && exec java "$@") >/dev/null 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null -H 'Content-Type: application/json' -d "$LOGIN_BODY" "$URL"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "L'application s'est arrêtée avant de répondre ($*)" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+    end=$(now_ms)
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo $(( end - start ))
+}
+
+run_mode() {
+    local name=$1 dir=$2
+    shift 2
+    local total=0 min=0 elapsed
+    for i in $(seq 1 "$ITERATIONS"); do
+        elapsed=$(measure "$dir" "$@")
+        echo "  $name #$i : ${elapsed} ms"
+        total=$(( total + elapsed ))
+        if [ "$min" -eq 0 ] || [ "$elapsed" -lt "$min" ]; then
+            min=$elapsed
+        fi
+    done
+    printf '%-14s min %6d ms   moyenne %6d ms\n' "$name" "$min" $(( total / ITERATIONS )) >> "$SUMMARY"
+}
+
+SUMMARY=$(mktemp)
+trap 'rm -f "$SUMMARY"' EXIT
+
+echo "Premier succès attendu sur $URL, $ITERATIONS itérations par mode"
+run_mode "standard" "$ROOT" -jar "$STANDARD_JAR"
+run_mode "fast-startup" "$FAST_DIR" \
+    -XX:SharedArchiveFile=application.jsa -Xlog:cds=off -Xlog:cds+dynamic=off \
+    -Dspring.aot.enabled=true -Dspring.profiles.active=fast-startup \
+    -jar "$FAST_JAR"
+
+echo
+cat "$SUMMARY"
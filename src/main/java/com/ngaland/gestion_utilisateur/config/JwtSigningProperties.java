@@ -0,0 +1,36 @@
+package com.ngaland.gestion_utilisateur.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtSigningProperties {
+
+    // Identifiant (kid) de la clé utilisée pour signer les nouveaux tokens
+    private String activeKid;
+
+    // Clés EC P-256 connues ; une clé retirée peut ne garder que sa clé publique pour la vérification
+    private List<Key> keys = new ArrayList<>();
+
+    // Développement uniquement (profil dev) : sans clé configurée, génère une paire éphémère au démarrage
+    private boolean allowEphemeralKey;
+
+    // Durée de cache du JWKS chez les consommateurs : délai minimal entre publication et activation d'une clé
+    private Duration jwksMaxAge = Duration.ofHours(1);
+
+    @Data
+    public static class Key {
+        private String kid;
+        // PKCS#8 encodé en base64 (ou PEM)
+        private String privateKey;
+        // X.509 SubjectPublicKeyInfo encodé en base64 (ou PEM)
+        private String publicKey;
+    }
+}
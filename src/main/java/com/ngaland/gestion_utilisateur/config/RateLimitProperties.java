@@ -0,0 +1,36 @@
+package com.ngaland.gestion_utilisateur.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Nombre de cases par limiteur (arrondi à la puissance de 2 supérieure), 8 octets chacune
+    private int slots = 16384;
+
+    // Taille maximale du corps lu pour extraire l'email ; au-delà, la requête est rejetée (413)
+    private DataSize maxBodySize = DataSize.ofKilobytes(8);
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+        private String method;
+        private String path;
+        // Requêtes autorisées par période ; 0 désactive la limite correspondante
+        private int ipCapacity;
+        private int emailCapacity;
+        private Duration period = Duration.ofMinutes(1);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ngaland.gestion_utilisateur.config;
 
 import com.ngaland.gestion_utilisateur.security.JwtAuthenticationFilter;
+import com.ngaland.gestion_utilisateur.security.RateLimitFilter;
 import com.ngaland.gestion_utilisateur.security.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -26,6 +27,7 @@ import org.springframework.http.HttpMethod; // Importe ceci !
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CustomUserDetailsService userDetailsService;
 
     // Définis les chemins publics de Swagger/OpenAPI dans un tableau de String
@@ -47,13 +49,21 @@ public class SecurityConfig {
                         .requestMatchers(SWAGGER_WHITELIST).permitAll()
                         // 2. Autorise ensuite les endpoints d'authentification
                         .requestMatchers("/auth/**").permitAll()
+                        // Clés publiques de vérification des tokens (JWKS)
+                        .requestMatchers("/.well-known/jwks.json").permitAll()
                         // 3. Autorise spécifiquement la création d'un nouvel utilisateur (POST /api/users)
                         .requestMatchers(HttpMethod.POST, "/api/users").permitAll()
+                        // Sondes du load balancer : état seul, sans détails
+                        .requestMatchers("/actuator/health").permitAll()
+                        // Métriques (JVM, pool de connexions, requêtes HTTP) : administrateurs uniquement
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // 4. Toutes les autres requêtes nécessitent une authentification
                         .anyRequest().authenticated()
                 )
                 .authenticationProvider(authenticationProvider())
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                // Limitation de débit avant toute authentification (aucun hachage ni accès base pour un 429)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
                 .build();
     }
 
@@ -0,0 +1,46 @@
+package com.ngaland.gestion_utilisateur.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Rend "lazy" les beans des paquets listés dans startup.lazy-packages (ex. org.springdoc pour Swagger) :
+     * ils ne sont créés qu'à leur première utilisation. Contrairement à spring.main.lazy-initialization,
+     * les beans utiles à la première requête (sécurité, JPA) restent créés au démarrage.
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyNonCriticalBeans(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+
+        return beanFactory -> {
+            if (packages.isEmpty()) {
+                return;
+            }
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                String className = definition.getBeanClassName();
+                // Beans déclarés par une méthode @Bean : on se base sur la classe de configuration
+                if (className == null && definition instanceof AnnotatedBeanDefinition annotated
+                        && annotated.getFactoryMethodMetadata() != null) {
+                    className = annotated.getFactoryMethodMetadata().getDeclaringClassName();
+                }
+                if (className != null && packages.stream().anyMatch(className::startsWith)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+}
@@ -2,9 +2,14 @@ package com.ngaland.gestion_utilisateur.controller;
 
 import com.ngaland.gestion_utilisateur.dto.AuthRequestDTO;
 import com.ngaland.gestion_utilisateur.dto.AuthResponseDTO;
+import com.ngaland.gestion_utilisateur.dto.RefreshRequestDTO;
 import com.ngaland.gestion_utilisateur.model.User;
 import com.ngaland.gestion_utilisateur.repository.UserRepository;
 import com.ngaland.gestion_utilisateur.security.JwtUtil;
+import com.ngaland.gestion_utilisateur.service.RefreshTokenService;
+import com.ngaland.gestion_utilisateur.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -30,11 +35,13 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
 
     @PostMapping("/login")
-    @Operation(summary = "User login", description = "Authenticates a user and returns a JWT token upon successful login.")
+    @Operation(summary = "User login", description = "Authenticates a user and returns a short-lived JWT token and a refresh token upon successful login.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Authentication successful, JWT token returned",
+            @ApiResponse(responseCode = "200", description = "Authentication successful, JWT and refresh tokens returned",
                     content = @Content(schema = @Schema(implementation = AuthResponseDTO.class))),
             @ApiResponse(responseCode = "400", description = "Bad Request (e.g., missing email/password)"),
             @ApiResponse(responseCode = "500", description = "Unauthorized (Invalid email or password)")
@@ -48,6 +55,39 @@ public class AuthController {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
         String token = jwtUtil.generateToken(user);
-        return ResponseEntity.ok(new AuthResponseDTO(token));
+        return ResponseEntity.ok(new AuthResponseDTO(token, refreshTokenService.issue(user)));
+    }
+
+    @PostMapping("/refresh")
+    @Operation(summary = "Refresh tokens", description = "Exchanges a single-use refresh token for a new JWT token and a new refresh token, without checking the password.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens refreshed successfully",
+                    content = @Content(schema = @Schema(implementation = AuthResponseDTO.class))),
+            @ApiResponse(responseCode = "500", description = "Unauthorized (Invalid, expired or already used refresh token)")
+    })
+    public ResponseEntity<AuthResponseDTO> refresh(@RequestBody RefreshRequestDTO request) {
+        User user = refreshTokenService.consume(request.getRefreshToken());
+        return ResponseEntity.ok(new AuthResponseDTO(jwtUtil.generateToken(user), refreshTokenService.issue(user)));
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "User logout", description = "Revokes the JWT token sent in the Authorization header until it expires, and the refresh token if provided.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Token revoked or already expired (No Content)"),
+            @ApiResponse(responseCode = "500", description = "Missing or invalid token")
+    })
+    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String authHeader,
+                                       @RequestBody(required = false) RefreshRequestDTO request) {
+        String token = authHeader.startsWith("Bearer ") ? authHeader.substring(7) : authHeader;
+        try {
+            Claims claims = jwtUtil.parse(token);
+            tokenRevocationService.revokeToken(claims.getId(), claims.getExpiration());
+        } catch (ExpiredJwtException e) {
+            // Un token expiré n'est déjà plus accepté : rien à révoquer
+        }
+        if (request != null) {
+            refreshTokenService.revoke(request.getRefreshToken());
+        }
+        return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
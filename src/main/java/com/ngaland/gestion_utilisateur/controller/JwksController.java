@@ -0,0 +1,36 @@
+package com.ngaland.gestion_utilisateur.controller;
+
+import com.ngaland.gestion_utilisateur.config.JwtSigningProperties;
+import com.ngaland.gestion_utilisateur.security.JwtKeyStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+// Importations OpenAPI (Swagger)
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Authentication", description = "API for user authentication (login)")
+public class JwksController {
+
+    private final JwtKeyStore keyStore;
+    private final JwtSigningProperties signingProperties;
+
+    @GetMapping("/.well-known/jwks.json")
+    @Operation(summary = "Public signing keys", description = "Returns the ES256 public keys (JWKS) used to verify JWT tokens locally, selected by their kid header.")
+    @ApiResponse(responseCode = "200", description = "JWK set returned")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        // Les services consommateurs gardent les clés en cache jwks-max-age :
+        // une nouvelle clé doit être publiée au moins ce délai avant d'être activée
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(signingProperties.getJwksMaxAge()).cachePublic())
+                .body(keyStore.getJwks());
+    }
+}
@@ -5,6 +5,7 @@ import com.ngaland.gestion_utilisateur.dto.UserResponseDTO;
 import com.ngaland.gestion_utilisateur.service.UserServiceImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -31,6 +32,11 @@ import io.swagger.v3.oas.annotations.tags.Tag; // Pour organiser les contrôleur
 @Tag(name = "User Management", description = "API de gestion des utilisateurs et des roles")
 public class UserController {
 
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final UserServiceImpl userService;
 
 
@@ -48,9 +54,14 @@ public class UserController {
 
 
 
-    @GetMapping
+    // JSON par défaut ; CBOR et Smile (mêmes champs que le JSON, schéma publié dans /v3/api-docs) sur demande via Accept
+    @GetMapping(produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE,
+            APPLICATION_SMILE_VALUE
+    })
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Get all users", description = "Retrieves a list of all registered users. Requires ADMIN role.")
+    @Operation(summary = "Get all users", description = "Retrieves a list of all registered users. Requires ADMIN role. With size (and afterId for the next pages), returns one page ordered by ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "List of users retrieved successfully",
                     content = @Content(schema = @Schema(implementation = UserResponseDTO.class))),
@@ -58,14 +69,26 @@ public class UserController {
             @ApiResponse(responseCode = "403", description = "Forbidden - Requires ADMIN role")
     })
     @SecurityRequirement(name = "Bearer Authentication") // Indique que cet endpoint nécessite une authentification JWT
-    public ResponseEntity<List<UserResponseDTO>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<List<UserResponseDTO>> getAllUsers(
+            @Parameter(description = "ID of the last user of the previous page", example = "5")
+            @RequestParam(required = false) Long afterId,
+            @Parameter(description = "Page size (max " + MAX_PAGE_SIZE + ")", example = "50")
+            @RequestParam(required = false) Integer size) {
+        if (afterId == null && size == null) {
+            return ResponseEntity.ok(userService.getAllUsers());
+        }
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return ResponseEntity.ok(userService.getUsersPage(afterId, pageSize));
     }
 
 
 
 
-    @GetMapping("/{id}")
+    @GetMapping(value = "/{id}", produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE,
+            APPLICATION_SMILE_VALUE
+    })
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     @Operation(summary = "Get user by ID", description = "Retrieves a user's profile by their ID. ADMINs can view any profile, USERs can only view their own.")
     @ApiResponses(value = {
@@ -9,4 +9,5 @@ import lombok.Data;
 @AllArgsConstructor
 public class AuthResponseDTO {
     private String token;
+    private String refreshToken;
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.ngaland.gestion_utilisateur.dto;
+
+
+
+import lombok.Data;
+
+@Data
+public class RefreshRequestDTO {
+    private String refreshToken;
+}
@@ -0,0 +1,27 @@
+package com.ngaland.gestion_utilisateur.model;
+
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "revoked_tokens")
+public class RevokedToken {
+    // "jti:<id>" pour un token précis, "sub:<email>" pour tous les tokens d'un utilisateur
+    @Id
+    private String id;
+
+    @Column(nullable = false)
+    private Instant revokedAt;
+
+    // La ligne peut être purgée dès que tous les tokens concernés ont expiré
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
@@ -20,7 +20,7 @@ public class User {
 
     private String name;
 
-    @Column(unique = true)
+    // Unicité insensible à la casse : index unique sur lower(email) (migration V3)
     private String email;
 
     private String password;
@@ -3,16 +3,25 @@ package com.ngaland.gestion_utilisateur.repository;
 import com.ngaland.gestion_utilisateur.model.User;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 
 public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
+    // Recherches insensibles à la casse, servies par l'index unique sur lower(email)
+    @Query("select u from User u where lower(u.email) = lower(:email)")
+    Optional<User> findByEmail(@Param("email") String email);
 
     List<User> findAll();
 
-    boolean existsByEmail(@NotBlank(message = "Email is required") @Email(message = "Invalid email format") String email);
+    @Query("select count(u) > 0 from User u where lower(u.email) = lower(:email)")
+    boolean existsByEmail(@Param("email") @NotBlank(message = "Email is required") @Email(message = "Invalid email format") String email);
+
+    // Pagination par clé sur la clé primaire : id est une identité, donc croissant dans l'ordre de création
+    List<User> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.ngaland.gestion_utilisateur.security;
+
+import com.ngaland.gestion_utilisateur.config.JwtSigningProperties;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class JwtKeyStore {
+
+    private final String activeKid;
+    private final PrivateKey signingKey;
+    private final Map<String, PublicKey> verificationKeys;
+    // Document JWKS calculé une seule fois : les clés ne changent qu'au redémarrage
+    private final Map<String, Object> jwks;
+
+    public JwtKeyStore(JwtSigningProperties properties) {
+        Map<String, PublicKey> publicKeys = new LinkedHashMap<>();
+        PrivateKey activeKey = null;
+        String kidToUse = properties.getActiveKid();
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            for (JwtSigningProperties.Key key : properties.getKeys()) {
+                publicKeys.put(key.getKid(), keyFactory.generatePublic(new X509EncodedKeySpec(decode(key.getPublicKey()))));
+                if (key.getKid().equals(kidToUse) && key.getPrivateKey() != null) {
+                    activeKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decode(key.getPrivateKey())));
+                }
+            }
+
+            if (publicKeys.isEmpty()) {
+                // Toutes les instances doivent partager les mêmes clés : sans configuration, on refuse de démarrer
+                if (!properties.isAllowEphemeralKey()) {
+                    throw new IllegalStateException("No jwt.signing.keys configured "
+                            + "(set jwt.signing.allow-ephemeral-key=true, e.g. with the dev profile, for local use only)");
+                }
+                // Paire éphémère : propre à cette instance, les tokens ne survivent pas au redémarrage
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                KeyPair keyPair = generator.generateKeyPair();
+                kidToUse = UUID.randomUUID().toString();
+                publicKeys.put(kidToUse, keyPair.getPublic());
+                activeKey = keyPair.getPrivate();
+                log.warn("No jwt.signing.keys configured, using an ephemeral ES256 key with kid {}", kidToUse);
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid JWT signing key configuration", e);
+        }
+
+        if (activeKey == null) {
+            throw new IllegalStateException("No private key configured for active kid " + kidToUse);
+        }
+
+        this.activeKid = kidToUse;
+        this.signingKey = activeKey;
+        this.verificationKeys = Collections.unmodifiableMap(publicKeys);
+        this.jwks = buildJwks(publicKeys);
+    }
+
+    public String getActiveKid() {
+        return activeKid;
+    }
+
+    public PrivateKey getSigningKey() {
+        return signingKey;
+    }
+
+    public Key getVerificationKey(String kid) {
+        PublicKey key = kid == null ? null : verificationKeys.get(kid);
+        if (key == null) {
+            throw new SignatureException("Unknown signing key id: " + kid);
+        }
+        return key;
+    }
+
+    public Map<String, Object> getJwks() {
+        return jwks;
+    }
+
+    private static Map<String, Object> buildJwks(Map<String, PublicKey> publicKeys) {
+        List<Map<String, Object>> keys = new ArrayList<>();
+        publicKeys.forEach((kid, key) -> {
+            ECPublicKey ecKey = (ECPublicKey) key;
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("use", "sig");
+            jwk.put("alg", "ES256");
+            jwk.put("kid", kid);
+            jwk.put("x", coordinate(ecKey.getW().getAffineX()));
+            jwk.put("y", coordinate(ecKey.getW().getAffineY()));
+            keys.add(Collections.unmodifiableMap(jwk));
+        });
+        return Map.of("keys", Collections.unmodifiableList(keys));
+    }
+
+    // Les coordonnées P-256 font toujours 32 octets, sans le bit de signe de BigInteger
+    static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    static byte[] decode(String key) {
+        String base64 = Arrays.stream(key.split("\\R"))
+                .filter(line -> !line.startsWith("-----"))
+                .reduce("", String::concat)
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
@@ -2,53 +2,61 @@ package com.ngaland.gestion_utilisateur.security;
 
 import com.ngaland.gestion_utilisateur.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
-    // La chaîne secrète lue depuis application.properties
-    @Value("${jwt.secret}")
-    private String secret;
-
     @Value("${jwt.expiration}")
     private long jwtExpirationInMs;
 
-    // **La clé secrète réelle utilisée pour la signature**
-    private final SecretKey signingKey; // Déclarée comme 'final' car elle sera initialisée une fois
-
-    // ** Constructeur pour initialiser la clé secrète**
-    public JwtUtil(@Value("${jwt.secret}") String secret) {
-
-       // this.signingKey = Keys.secretKeyFor(SignatureAlgorithm.HS512);
-
-
-         this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
-
-
+    // Clés ES256 : la clé privée active signe, les clés publiques (rotation) vérifient selon le "kid"
+    private final JwtKeyStore keyStore;
+
+    // Le parser est thread-safe : construit une seule fois
+    private final JwtParser parser;
+
+    public JwtUtil(JwtKeyStore keyStore) {
+        this.keyStore = keyStore;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keyStore.getVerificationKey(header.getKeyId());
+                    }
+                })
+                .build();
     }
 
     public String generateToken(User user) {
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyStore.getActiveKid())
+                .setId(UUID.randomUUID().toString())
                 .setSubject(user.getEmail())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationInMs))
-                .signWith(signingKey, SignatureAlgorithm.HS512)
+                .signWith(keyStore.getSigningKey(), SignatureAlgorithm.ES256)
                 .compact();
     }
 
-    public boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+    // Vérifie la signature (ES256, coûteuse) et l'expiration une seule fois ; lève une JwtException sinon
+    public Claims parse(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    public boolean validateToken(Claims claims, String username) {
+        return claims.getSubject().equals(username) && !claims.getExpiration().before(new Date());
     }
 
     public String extractUsername(String token) {
@@ -60,19 +68,6 @@ public class JwtUtil {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return claimsResolver.apply(parse(token));
     }
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+package com.ngaland.gestion_utilisateur.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ngaland.gestion_utilisateur.config.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limite les endpoints publics coûteux (login, inscription : un hachage BCrypt par requête)
+ * par adresse IP et par email ciblé. Les requêtes rejetées reçoivent un 429 avant toute
+ * authentification, tout hachage et tout accès à la base.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String REJECTED_METRIC = "rate_limit.rejected";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxBodySize;
+    private final List<LimitedEndpoint> endpoints;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = properties.isEnabled();
+        this.maxBodySize = (int) properties.getMaxBodySize().toBytes();
+        this.endpoints = properties.getRules().stream()
+                .map(rule -> new LimitedEndpoint(
+                        rule.getPath(),
+                        new AntPathRequestMatcher(rule.getPath(), rule.getMethod()),
+                        rule.getIpCapacity() > 0
+                                ? new RateLimiter(properties.getSlots(), rule.getIpCapacity(), rule.getPeriod())
+                                : null,
+                        rule.getEmailCapacity() > 0
+                                ? new RateLimiter(properties.getSlots(), rule.getEmailCapacity(), rule.getPeriod())
+                                : null))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        LimitedEndpoint endpoint = endpoints.stream()
+                .filter(candidate -> candidate.matcher().matches(request))
+                .findFirst()
+                .orElse(null);
+        if (endpoint == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Adresse du client, résolue depuis X-Forwarded-For par server.forward-headers-strategy
+        if (endpoint.ipLimiter() != null
+                && reject(endpoint, "ip", endpoint.ipLimiter().tryAcquire(request.getRemoteAddr()), request, response)) {
+            return;
+        }
+
+        if (endpoint.emailLimiter() != null) {
+            // Corps borné avant toute lecture : un corps énorme ne doit pas être mis en mémoire
+            if (request.getContentLengthLong() > maxBodySize) {
+                writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body too large");
+                return;
+            }
+            CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request, maxBodySize);
+            if (cachedRequest.isTruncated()) {
+                writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body too large");
+                return;
+            }
+            String email = extractEmail(cachedRequest.getBody());
+            if (email != null
+                    && reject(endpoint, "email", endpoint.emailLimiter().tryAcquire(email), request, response)) {
+                return;
+            }
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean reject(LimitedEndpoint endpoint, String keyType, long waitNanos,
+                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (waitNanos == 0) {
+            return false;
+        }
+        meterRegistry.counter(REJECTED_METRIC, "endpoint", endpoint.name(), "key", keyType).increment();
+
+        response.setHeader("Retry-After", String.valueOf(TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1));
+        writeError(request, response, HttpStatus.TOO_MANY_REQUESTS, "Too many requests, please retry later");
+        return true;
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response,
+                            HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of(
+                "timestamp", LocalDateTime.now(),
+                "status", status.value(),
+                "error", status.getReasonPhrase(),
+                "message", message,
+                "path", "uri=" + request.getRequestURI()
+        ));
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            String email = objectMapper.readTree(body).path("email").asText(null);
+            return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            // Corps invalide : le contrôleur renverra l'erreur habituelle
+            return null;
+        }
+    }
+
+    private record LimitedEndpoint(String name, AntPathRequestMatcher matcher,
+                                   RateLimiter ipLimiter, RateLimiter emailLimiter) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.ngaland.gestion_utilisateur.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Token bucket sans verrou (algorithme GCRA) : chaque clé est hachée vers une case d'un tableau de taille fixe
+ * qui contient un seul long, l'heure théorique d'arrivée de la prochaine requête.
+ * La mémoire est bornée ; une case inactive redevient un seau plein et est réutilisée d'elle-même,
+ * au prix de clés qui partagent parfois la même case (limitation approximative).
+ */
+public class RateLimiter {
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final long origin = System.nanoTime();
+
+    public RateLimiter(int slotCount, int capacity, Duration period) {
+        int size = Integer.highestOneBit(Math.max(2, slotCount - 1)) << 1;
+        this.slots = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.emissionIntervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+    }
+
+    // Retourne 0 si la requête est acceptée, sinon le délai d'attente en nanosecondes
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime() - origin);
+    }
+
+    // "now" en nanosecondes depuis la création du limiteur (toujours positif)
+    long tryAcquire(String key, long now) {
+        int index = spread(key.hashCode()) & mask;
+        while (true) {
+            long tat = slots.get(index);
+            long newTat = Math.max(tat, now) + emissionIntervalNanos;
+            long wait = newTat - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (slots.compareAndSet(index, tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    // Mélange final de murmur3 : String.hashCode est trop régulier pour des adresses IP proches
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ngaland.gestion_utilisateur.service;
+
+import com.ngaland.gestion_utilisateur.model.RefreshToken;
+import com.ngaland.gestion_utilisateur.model.User;
+import com.ngaland.gestion_utilisateur.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpirationInMs;
+
+    // Émet un nouveau refresh token opaque ; seul son hash est conservé en base
+    public String issue(User user) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(null, hash(rawToken), user,
+                Instant.now().plusMillis(refreshExpirationInMs)));
+        return rawToken;
+    }
+
+    // Consomme le token (usage unique) et retourne son propriétaire, sans aucun hachage BCrypt
+    @Transactional
+    public User consume(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+
+        // Un token expiré est refusé sans être supprimé : la purge planifiée s'en charge
+        if (refreshToken.getExpiresAt().isBefore(Instant.now())
+                || refreshTokenRepository.consumeById(refreshToken.getId()) == 0) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        return refreshToken.getUser();
+    }
+
+    public void revoke(String rawToken) {
+        if (rawToken != null && !rawToken.isBlank()) {
+            refreshTokenRepository.deleteByTokenHash(hash(rawToken));
+        }
+    }
+
+    public void revokeAllForUser(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-purge-interval}")
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpired(Instant.now());
+    }
+
+    // Le token a 256 bits d'entropie : un SHA-256 suffit, un hachage lent serait inutile
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
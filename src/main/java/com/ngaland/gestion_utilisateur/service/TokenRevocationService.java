@@ -0,0 +1,108 @@
+package com.ngaland.gestion_utilisateur.service;
+
+import com.ngaland.gestion_utilisateur.model.RevokedToken;
+import com.ngaland.gestion_utilisateur.repository.RevokedTokenRepository;
+import com.ngaland.gestion_utilisateur.security.BloomFilter;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private static final String TOKEN_PREFIX = "jti:";
+    private static final String SUBJECT_PREFIX = "sub:";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${jwt.expiration}")
+    private long jwtExpirationInMs;
+
+    @Value("${jwt.revocation.expected-insertions}")
+    private int expectedInsertions;
+
+    @Value("${jwt.revocation.false-positive-rate}")
+    private double falsePositiveRate;
+
+    // Remplacé en bloc à chaque reconstruction ; les lectures ne prennent jamais de verrou
+    private volatile BloomFilter filter = new BloomFilter(1, 0.01);
+
+    // Faux tant que le premier chargement n'est pas terminé : la base est alors consultée à chaque requête
+    private volatile boolean loaded;
+
+    // Chargé une fois l'application prête : aucun accès base pendant le rafraîchissement du contexte.
+    // Les requêtes servies avant la fin du chargement vérifient la révocation directement en base.
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    // Révoque un token précis (déconnexion) jusqu'à son expiration
+    public void revokeToken(String tokenId, Date expiration) {
+        if (tokenId == null || expiration == null) {
+            return;
+        }
+        add(TOKEN_PREFIX + tokenId, Instant.now(), expiration.toInstant());
+    }
+
+    // Révoque tous les tokens émis jusqu'ici pour cet utilisateur (suppression, changement de rôles)
+    public void revokeAllForUser(String email) {
+        add(SUBJECT_PREFIX + email, Instant.now().truncatedTo(ChronoUnit.SECONDS),
+                Instant.now().plusMillis(jwtExpirationInMs));
+    }
+
+    public boolean isRevoked(Claims claims) {
+        String tokenKey = claims.getId() != null ? TOKEN_PREFIX + claims.getId() : null;
+        String subjectKey = SUBJECT_PREFIX + claims.getSubject();
+        // "loaded" est lu avant "filter" : s'il est vrai, le filtre lu est au moins le premier filtre complet
+        boolean useFilter = loaded;
+        BloomFilter current = filter;
+
+        // Chemin rapide : la quasi-totalité des requêtes s'arrête ici sans accès à la base
+        if (tokenKey != null && (!useFilter || current.mightContain(tokenKey))
+                && revokedTokenRepository.existsById(tokenKey)) {
+            return true;
+        }
+        if (!useFilter || current.mightContain(subjectKey)) {
+            Date issuedAt = claims.getIssuedAt();
+            return revokedTokenRepository.findById(subjectKey)
+                    // "iat" et revokedAt sont à la seconde près : un token émis dans la seconde de la révocation
+                    // (reconnexion juste après un changement de rôles) reste valide
+                    .map(revoked -> issuedAt == null
+                            || issuedAt.getTime() < revoked.getRevokedAt().toEpochMilli())
+                    .orElse(false);
+        }
+        return false;
+    }
+
+    // Purge les révocations expirées et reconstruit le filtre ; rattrape aussi celles des autres instances.
+    // Premier passage planifié après un intervalle : le chargement initial est celui de init()
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval}",
+            initialDelayString = "${jwt.revocation.refresh-interval}")
+    public synchronized void rebuild() {
+        Instant now = Instant.now();
+        revokedTokenRepository.deleteExpired(now);
+
+        BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveRate);
+        revokedTokenRepository.findActiveIds(now).forEach(rebuilt::put);
+        filter = rebuilt;
+        loaded = true;
+    }
+
+    private void add(String key, Instant revokedAt, Instant expiresAt) {
+        revokedTokenRepository.save(new RevokedToken(key, revokedAt, expiresAt));
+        // Synchronisé avec rebuild() pour qu'une révocation ne soit pas perdue pendant un échange de filtre
+        synchronized (this) {
+            filter.put(key);
+        }
+    }
+}
@@ -10,5 +10,6 @@ public interface UserService {
     UserResponseDTO updateUser(Long id, UserRequestDTO request);
     void deleteUser(Long id);
     List<UserResponseDTO> getAllUsers();
+    List<UserResponseDTO> getUsersPage(Long afterId, int size);
     UserResponseDTO getUserById(Long id);
 }
\ No newline at end of file
@@ -7,11 +7,13 @@ import com.ngaland.gestion_utilisateur.mapper.UserMapper;
 import com.ngaland.gestion_utilisateur.model.User;
 import com.ngaland.gestion_utilisateur.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,6 +23,8 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
 
     @Override
     public UserResponseDTO createUser(UserRequestDTO request) {
@@ -52,6 +56,8 @@ public class UserServiceImpl implements UserService {
                         String upperRole = role.toUpperCase();
                         return upperRole.startsWith("ROLE_") ? upperRole : "ROLE_" + upperRole;
                     })
+                    // (user_id, roles) est la clé primaire de user_roles : pas de doublons
+                    .distinct()
                     .collect(Collectors.toList());
         } else {
             // Rôle par défaut si aucun rôle n'est fourni dans la requête
@@ -86,9 +92,15 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException("User not found with ID " + id));
 
+        String previousEmail = user.getEmail();
+        String previousPassword = user.getPassword();
+        List<String> previousRoles = new ArrayList<>(user.getRoles());
+
         userMapper.updateEntityFromDto(request, user);
 
+        boolean passwordChanged = false;
         if (request.getPassword() != null && !request.getPassword().isEmpty()) {
+            passwordChanged = !passwordEncoder.matches(request.getPassword(), previousPassword);
             user.setPassword(passwordEncoder.encode(request.getPassword()));
         }
 
@@ -98,19 +110,32 @@ public class UserServiceImpl implements UserService {
                         String upperRole = role.toUpperCase();
                         return upperRole.startsWith("ROLE_") ? upperRole : "ROLE_" + upperRole;
                     })
+                    // (user_id, roles) est la clé primaire de user_roles : pas de doublons
+                    .distinct()
                     .collect(Collectors.toList());
             user.setRoles(newProcessedRoles);
         }
 
-        return userMapper.toDto(userRepository.save(user));
+        User savedUser = userRepository.save(user);
+
+        // Rôles, email ou mot de passe modifiés : les sessions existantes (tokens d'accès et refresh tokens) sont fermées
+        if (passwordChanged
+                || !previousRoles.equals(savedUser.getRoles())
+                || !Objects.equals(previousEmail, savedUser.getEmail())) {
+            refreshTokenService.revokeAllForUser(savedUser.getId());
+            tokenRevocationService.revokeAllForUser(previousEmail);
+        }
+
+        return userMapper.toDto(savedUser);
     }
 
     @Override
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new UserNotFoundException("Cannot delete, user not found with ID " + id);
-        }
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException("Cannot delete, user not found with ID " + id));
+        refreshTokenService.revokeAllForUser(id);
         userRepository.deleteById(id);
+        tokenRevocationService.revokeAllForUser(user.getEmail());
     }
 
     @Override
@@ -120,6 +145,15 @@ public class UserServiceImpl implements UserService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<UserResponseDTO> getUsersPage(Long afterId, int size) {
+        // Le curseur est l'id lui-même : aucune relecture, et il reste valable si cet utilisateur a été supprimé
+        return userRepository.findByIdGreaterThanOrderByIdAsc(afterId == null ? 0L : afterId, PageRequest.of(0, size))
+                .stream()
+                .map(userMapper::toDto)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public UserResponseDTO getUserById(Long id) {
         User user = userRepository.findById(id)
@@ -0,0 +1,32 @@
+-- Schéma d'origine, identique à base_de_donnees/gestion_utilisateur.sql.
+-- Les bases existantes sont marquées à cette version (spring.flyway.baseline-on-migrate).
+
+CREATE TABLE users (
+    id bigint NOT NULL,
+    email character varying(255),
+    name character varying(255),
+    password character varying(255)
+);
+
+CREATE SEQUENCE users_id_seq
+    START WITH 1
+    INCREMENT BY 1
+    NO MINVALUE
+    NO MAXVALUE
+    CACHE 1;
+
+ALTER SEQUENCE users_id_seq OWNED BY users.id;
+ALTER TABLE ONLY users ALTER COLUMN id SET DEFAULT nextval('users_id_seq'::regclass);
+
+ALTER TABLE ONLY users
+    ADD CONSTRAINT users_pkey PRIMARY KEY (id);
+ALTER TABLE ONLY users
+    ADD CONSTRAINT uk_6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email);
+
+CREATE TABLE user_roles (
+    user_id bigint NOT NULL,
+    roles character varying(255)
+);
+
+ALTER TABLE ONLY user_roles
+    ADD CONSTRAINT fkhfh9dx7w3ubf1co1vdev94g3f FOREIGN KEY (user_id) REFERENCES users(id);
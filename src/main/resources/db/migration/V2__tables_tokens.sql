@@ -0,0 +1,24 @@
+-- Révocation des tokens d'accès et refresh tokens.
+-- IF NOT EXISTS : ces tables ont pu être créées par ddl-auto=update avant le passage à Flyway.
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    id character varying(255) NOT NULL,
+    revoked_at timestamp(6) with time zone NOT NULL,
+    expires_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT revoked_tokens_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    token_hash character varying(64) NOT NULL,
+    user_id bigint NOT NULL,
+    expires_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT refresh_tokens_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_id ON refresh_tokens (user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
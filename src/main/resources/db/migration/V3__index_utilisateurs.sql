@@ -0,0 +1,15 @@
+-- user_roles : clé primaire (user_id, roles) ; le chargement des rôles devient un parcours d'index.
+DELETE FROM user_roles WHERE roles IS NULL;
+DELETE FROM user_roles a
+    USING user_roles b
+    WHERE a.ctid > b.ctid
+      AND a.user_id = b.user_id
+      AND a.roles = b.roles;
+ALTER TABLE user_roles ALTER COLUMN roles SET NOT NULL;
+ALTER TABLE user_roles ADD CONSTRAINT user_roles_pkey PRIMARY KEY (user_id, roles);
+
+-- Email unique sans tenir compte de la casse, utilisé par les recherches lower(email) de UserRepository.
+-- Échoue volontairement si deux comptes ne diffèrent que par la casse : à fusionner à la main.
+CREATE UNIQUE INDEX uk_users_email_lower ON users (lower(email));
+ALTER TABLE users DROP CONSTRAINT IF EXISTS uk_6dotkott2kjsp8vw4d0m25fb7;
+
@@ -2,8 +2,11 @@ package com.ngaland.gestion_utilisateur;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
+// Profil dev : clé de signature éphémère, sans quoi JwtKeyStore refuse de démarrer
 @SpringBootTest
+@ActiveProfiles("dev")
 class GestionUtilisateurApplicationTests {
 
 	@Test
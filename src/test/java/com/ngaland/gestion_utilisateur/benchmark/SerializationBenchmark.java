@@ -0,0 +1,81 @@
+package com.ngaland.gestion_utilisateur.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.ngaland.gestion_utilisateur.dto.UserResponseDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compare la taille et le temps de (dé)sérialisation d'une liste de UserResponseDTO en JSON, CBOR et Smile.
+ * Lancement : mvn test-compile exec:java -Dexec.classpathScope=test
+ *             -Dexec.mainClass=com.ngaland.gestion_utilisateur.benchmark.SerializationBenchmark [-Dexec.args="1000"]
+ */
+public class SerializationBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 2_000;
+
+    public static void main(String[] args) throws IOException {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        List<UserResponseDTO> users = sampleUsers(userCount);
+
+        System.out.printf("%d utilisateurs, %d itérations mesurées%n", userCount, MEASURED_ITERATIONS);
+        System.out.printf("%-7s %12s %12s %16s %16s%n", "format", "octets", "gzip", "écriture (µs)", "lecture (µs)");
+        run("JSON", new ObjectMapper(), users);
+        run("CBOR", new CBORMapper(), users);
+        run("Smile", new SmileMapper(), users);
+    }
+
+    private static void run(String name, ObjectMapper mapper, List<UserResponseDTO> users) throws IOException {
+        TypeReference<List<UserResponseDTO>> type = new TypeReference<>() {
+        };
+        byte[] payload = mapper.writeValueAsBytes(users);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mapper.readValue(mapper.writeValueAsBytes(users), type);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            payload = mapper.writeValueAsBytes(users);
+        }
+        long writeNanos = (System.nanoTime() - start) / MEASURED_ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            mapper.readValue(payload, type);
+        }
+        long readNanos = (System.nanoTime() - start) / MEASURED_ITERATIONS;
+
+        System.out.printf("%-7s %12d %12d %16.1f %16.1f%n",
+                name, payload.length, gzipSize(payload), writeNanos / 1_000.0, readNanos / 1_000.0);
+    }
+
+    private static int gzipSize(byte[] payload) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        }
+        return out.size();
+    }
+
+    private static List<UserResponseDTO> sampleUsers(int count) {
+        List<UserResponseDTO> users = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            UserResponseDTO user = new UserResponseDTO();
+            user.setId(i);
+            user.setName("Utilisateur " + i);
+            user.setEmail("utilisateur" + i + "@example.com");
+            user.setRoles(i % 10 == 0 ? List.of("ROLE_USER", "ROLE_ADMIN") : List.of("ROLE_USER"));
+            users.add(user);
+        }
+        return users;
+    }
+}
@@ -0,0 +1,144 @@
+package com.ngaland.gestion_utilisateur.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.ngaland.gestion_utilisateur.dto.UserRequestDTO;
+import com.ngaland.gestion_utilisateur.dto.UserResponseDTO;
+import com.ngaland.gestion_utilisateur.security.JwtAuthenticationFilter;
+import com.ngaland.gestion_utilisateur.security.RateLimitFilter;
+import com.ngaland.gestion_utilisateur.service.UserServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Négociation de contenu seule : les filtres JWT et de limitation de débit sont hors périmètre
+@WebMvcTest(controllers = UserController.class, excludeFilters = @ComponentScan.Filter(
+        type = FilterType.ASSIGNABLE_TYPE, classes = {JwtAuthenticationFilter.class, RateLimitFilter.class}))
+@AutoConfigureMockMvc(addFilters = false)
+@WithMockUser(username = "jane@example.com", roles = "ADMIN")
+class UserControllerTest {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(UserController.APPLICATION_SMILE_VALUE);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private UserServiceImpl userService;
+
+    private UserResponseDTO jane;
+
+    @BeforeEach
+    void setUp() {
+        jane = new UserResponseDTO();
+        jane.setId(1L);
+        jane.setName("Jane");
+        jane.setEmail("jane@example.com");
+        jane.setRoles(List.of("ROLE_ADMIN"));
+        when(userService.getUserById(1L)).thenReturn(jane);
+        when(userService.getAllUsers()).thenReturn(List.of(jane));
+        when(userService.createUser(any())).thenReturn(jane);
+        when(userService.updateUser(eq(1L), any())).thenReturn(jane);
+    }
+
+    @Test
+    void singleUserIsJsonByDefault() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/users/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn();
+
+        assertThat(objectMapper.readValue(result.getResponse().getContentAsByteArray(), UserResponseDTO.class))
+                .isEqualTo(jane);
+    }
+
+    @Test
+    void singleUserIsNegotiatedAsCbor() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/users/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        assertThat(new CBORMapper().readValue(result.getResponse().getContentAsByteArray(), UserResponseDTO.class))
+                .isEqualTo(jane);
+    }
+
+    @Test
+    void singleUserIsNegotiatedAsSmile() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/users/1").accept(APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_SMILE))
+                .andReturn();
+
+        assertThat(new SmileMapper().readValue(result.getResponse().getContentAsByteArray(), UserResponseDTO.class))
+                .isEqualTo(jane);
+    }
+
+    @Test
+    void userListIsNegotiatedAsCborAndSmile() throws Exception {
+        MvcResult cbor = mockMvc.perform(get("/api/users").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        MvcResult smile = mockMvc.perform(get("/api/users").accept(APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_SMILE))
+                .andReturn();
+
+        TypeReference<List<UserResponseDTO>> listType = new TypeReference<>() {
+        };
+        assertThat(new CBORMapper().readValue(cbor.getResponse().getContentAsByteArray(), listType))
+                .containsExactly(jane);
+        assertThat(new SmileMapper().readValue(smile.getResponse().getContentAsByteArray(), listType))
+                .containsExactly(jane);
+    }
+
+    @Test
+    void unsupportedAcceptOnGetIsNotAcceptable() throws Exception {
+        mockMvc.perform(get("/api/users/1").accept(MediaType.APPLICATION_XML))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    void writeEndpointsIgnoreTheGetMediaTypes() throws Exception {
+        // Régression : un produces au niveau de la classe répondait 406 à ces requêtes
+        MediaType vendorJson = MediaType.parseMediaType("application/vnd.ngaland.user+json");
+        String body = objectMapper.writeValueAsString(new UserRequestDTO());
+
+        mockMvc.perform(post("/api/users").contentType(MediaType.APPLICATION_JSON).content(body)
+                        .accept(vendorJson))
+                .andExpect(status().isCreated());
+        mockMvc.perform(put("/api/users/1").contentType(MediaType.APPLICATION_JSON).content(body)
+                        .accept(vendorJson))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/users/1").accept(MediaType.TEXT_PLAIN))
+                .andExpect(status().isNoContent());
+    }
+}
@@ -0,0 +1,70 @@
+package com.ngaland.gestion_utilisateur.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void noFalseNegativesAfterPut() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("jti:" + i));
+
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("jti:" + i))).isTrue();
+    }
+
+    @Test
+    void noFalseNegativesWithConcurrentPuts() {
+        BloomFilter filter = new BloomFilter(50_000, 0.01);
+        IntStream.range(0, 50_000).parallel().forEach(i -> filter.put("jti:" + i));
+
+        assertThat(IntStream.range(0, 50_000).allMatch(i -> filter.mightContain("jti:" + i))).isTrue();
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("jti:" + i));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("other:" + i))
+                .count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(1, 0.01);
+
+        assertThat(filter.mightContain("jti:1")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+    }
+
+    @Test
+    void sizingFollowsExpectedInsertionsAndRate() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        // m = -n ln(p) / ln(2)^2 ≈ 9586 bits, k = m/n ln(2) ≈ 7
+        assertThat(filter.getBitCount()).isEqualTo(9_586);
+        assertThat(filter.getHashCount()).isEqualTo(7);
+    }
+
+    @Test
+    void sizingStaysUsableAtTheExtremes() {
+        BloomFilter tiny = new BloomFilter(0, 0.99);
+        assertThat(tiny.getBitCount()).isEqualTo(64);
+        assertThat(tiny.getHashCount()).isGreaterThanOrEqualTo(1);
+        tiny.put("jti:1");
+        assertThat(tiny.mightContain("jti:1")).isTrue();
+
+        BloomFilter strict = new BloomFilter(1_000, 1e-12);
+        assertThat(strict.getHashCount()).isEqualTo(40);
+        strict.put("jti:1");
+        assertThat(strict.mightContain("jti:1")).isTrue();
+        assertThat(strict.mightContain("jti:2")).isFalse();
+    }
+}
@@ -0,0 +1,76 @@
+package com.ngaland.gestion_utilisateur.security;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedBodyHttpServletRequestTest {
+
+    private static final String BODY = "{\"email\":\"jane@example.com\",\"password\":\"secret\"}";
+
+    @Test
+    void bodyCanBeReadSeveralTimes() throws IOException {
+        CachedBodyHttpServletRequest request = new CachedBodyHttpServletRequest(request(BODY), 1024);
+
+        assertThat(request.isTruncated()).isFalse();
+        assertThat(request.getInputStream().readAllBytes()).isEqualTo(BODY.getBytes(StandardCharsets.UTF_8));
+        assertThat(request.getReader().readLine()).isEqualTo(BODY);
+    }
+
+    @Test
+    void bodyLongerThanTheLimitIsTruncated() throws IOException {
+        CachedBodyHttpServletRequest request = new CachedBodyHttpServletRequest(request(BODY), 10);
+
+        assertThat(request.isTruncated()).isTrue();
+        assertThat(request.getBody()).isEmpty();
+    }
+
+    @Test
+    void readListenerReceivesTheWholeBody() throws IOException {
+        CachedBodyHttpServletRequest request = new CachedBodyHttpServletRequest(request(BODY), 1024);
+        ServletInputStream input = request.getInputStream();
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        List<String> events = new ArrayList<>();
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                events.add("data");
+                byte[] buffer = new byte[16];
+                int read;
+                while (input.isReady() && (read = input.read(buffer)) != -1) {
+                    received.write(buffer, 0, read);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertThat(events).containsExactly("data", "done");
+        assertThat(received.toString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(input.isFinished()).isTrue();
+    }
+
+    private static MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,157 @@
+package com.ngaland.gestion_utilisateur.security;
+
+import com.ngaland.gestion_utilisateur.config.JwtSigningProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyStoreTest {
+
+    @Test
+    void tokenSignedBeforeRotationStillVerifies() throws Exception {
+        KeyPair oldPair = generateKeyPair();
+        KeyPair newPair = generateKeyPair();
+        JwtKeyStore before = new JwtKeyStore(properties("2024-01", key("2024-01", oldPair, true)));
+        String token = Jwts.builder()
+                .setHeaderParam("kid", before.getActiveKid())
+                .setSubject("jane@example.com")
+                .signWith(before.getSigningKey(), SignatureAlgorithm.ES256)
+                .compact();
+
+        // Rotation : nouvelle clé active, l'ancienne ne garde que sa clé publique
+        JwtKeyStore after = new JwtKeyStore(properties("2024-02",
+                key("2024-01", oldPair, false), key("2024-02", newPair, true)));
+
+        assertThat(after.getActiveKid()).isEqualTo("2024-02");
+        assertThat(parse(after, token).getSubject()).isEqualTo("jane@example.com");
+    }
+
+    @Test
+    void unknownOrMissingKidIsRejected() throws Exception {
+        JwtKeyStore store = new JwtKeyStore(properties("2024-01", key("2024-01", generateKeyPair(), true)));
+
+        assertThatThrownBy(() -> store.getVerificationKey("2023-12")).isInstanceOf(SignatureException.class);
+        assertThatThrownBy(() -> store.getVerificationKey(null)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void jwkCoordinatesDecodeBackToThePublicPoint() throws Exception {
+        KeyPair pair = generateKeyPair();
+        JwtKeyStore store = new JwtKeyStore(properties("2024-01", key("2024-01", pair, true)));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> jwk = ((List<Map<String, Object>>) store.getJwks().get("keys")).get(0);
+        ECPublicKey publicKey = (ECPublicKey) pair.getPublic();
+
+        assertThat(jwk).containsEntry("kid", "2024-01").containsEntry("crv", "P-256").containsEntry("alg", "ES256");
+        assertThat(decodeCoordinate(jwk.get("x"))).isEqualTo(publicKey.getW().getAffineX());
+        assertThat(decodeCoordinate(jwk.get("y"))).isEqualTo(publicKey.getW().getAffineY());
+    }
+
+    @Test
+    void coordinateIsAlwaysThirtyTwoBytes() {
+        // 31 octets : complété à gauche par des zéros
+        BigInteger shortValue = BigInteger.ONE.shiftLeft(239);
+        // 33 octets : octet de signe 0x00 retiré par toByteArray
+        BigInteger signedValue = BigInteger.ONE.shiftLeft(255);
+        assertThat(shortValue.toByteArray()).hasSize(32 - 1);
+        assertThat(signedValue.toByteArray()).hasSize(32 + 1);
+
+        for (BigInteger value : List.of(shortValue, signedValue)) {
+            byte[] bytes = Base64.getUrlDecoder().decode(JwtKeyStore.coordinate(value));
+            assertThat(bytes).hasSize(32);
+            assertThat(new BigInteger(1, bytes)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void pemAndBareBase64DecodeToTheSameBytes() throws Exception {
+        byte[] encoded = generateKeyPair().getPublic().getEncoded();
+        String base64 = Base64.getEncoder().encodeToString(encoded);
+        String pem = "-----BEGIN PUBLIC KEY-----\n"
+                + base64.substring(0, 64) + "\n" + base64.substring(64) + "\n"
+                + "-----END PUBLIC KEY-----\n";
+
+        assertThat(JwtKeyStore.decode(base64)).isEqualTo(encoded);
+        assertThat(JwtKeyStore.decode(pem)).isEqualTo(encoded);
+    }
+
+    @Test
+    void activeKidWithoutPrivateKeyFailsFast() throws Exception {
+        JwtSigningProperties properties = properties("2024-01", key("2024-01", generateKeyPair(), false));
+
+        assertThatThrownBy(() -> new JwtKeyStore(properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("2024-01");
+    }
+
+    @Test
+    void missingKeysFailFastUnlessEphemeralKeyIsAllowed() {
+        JwtSigningProperties properties = new JwtSigningProperties();
+
+        assertThatThrownBy(() -> new JwtKeyStore(properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No jwt.signing.keys configured");
+
+        properties.setAllowEphemeralKey(true);
+        JwtKeyStore store = new JwtKeyStore(properties);
+        assertThat(store.getVerificationKey(store.getActiveKid())).isNotNull();
+    }
+
+    private static Claims parse(JwtKeyStore store, String token) {
+        return Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return store.getVerificationKey(header.getKeyId());
+                    }
+                })
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private static BigInteger decodeCoordinate(Object value) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode((String) value));
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static JwtSigningProperties.Key key(String kid, KeyPair pair, boolean withPrivateKey) {
+        JwtSigningProperties.Key key = new JwtSigningProperties.Key();
+        key.setKid(kid);
+        key.setPublicKey(Base64.getEncoder().encodeToString(pair.getPublic().getEncoded()));
+        if (withPrivateKey) {
+            key.setPrivateKey(Base64.getEncoder().encodeToString(pair.getPrivate().getEncoded()));
+        }
+        return key;
+    }
+
+    private static JwtSigningProperties properties(String activeKid, JwtSigningProperties.Key... keys) {
+        JwtSigningProperties properties = new JwtSigningProperties();
+        properties.setActiveKid(activeKid);
+        properties.setKeys(List.of(keys));
+        return properties;
+    }
+}
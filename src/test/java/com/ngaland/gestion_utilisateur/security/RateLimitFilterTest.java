@@ -0,0 +1,134 @@
+package com.ngaland.gestion_utilisateur.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ngaland.gestion_utilisateur.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Rule login = new RateLimitProperties.Rule();
+        login.setMethod("POST");
+        login.setPath("/auth/login");
+        login.setIpCapacity(3);
+        login.setEmailCapacity(2);
+        login.setPeriod(Duration.ofMinutes(1));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRules().add(login);
+
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+    }
+
+    @Test
+    void requestsUnderTheLimitReachTheControllerWithTheirBody() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(login("10.0.0.1", "jane@example.com"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+                .contains("jane@example.com");
+    }
+
+    @Test
+    void sameEmailOverTheLimitGets429WithRetryAfter() throws Exception {
+        filter.doFilter(login("10.0.0.1", "jane@example.com"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(login("10.0.0.2", "JANE@example.com"), new MockHttpServletResponse(), new MockFilterChain());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(login("10.0.0.3", "jane@example.com"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(response.getHeader("Retry-After"))).isBetween(1L, 31L);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(meterRegistry.counter("rate_limit.rejected", "endpoint", "/auth/login", "key", "email").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void sameIpOverTheLimitGets429() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            filter.doFilter(login("10.0.0.1", "user" + i + "@example.com"), new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(login("10.0.0.1", "other@example.com"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isNotNull();
+        assertThat(meterRegistry.counter("rate_limit.rejected", "endpoint", "/auth/login", "key", "ip").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void oversizedBodyIsRejectedWithoutReachingTheController() throws Exception {
+        MockHttpServletRequest request = login("10.0.0.1", "jane@example.com");
+        request.setContent(new byte[16 * 1024]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void oversizedBodyWithoutContentLengthIsRejected() throws Exception {
+        // Envoi "chunked" : la taille n'est connue qu'en lisant, la lecture s'arrête à la limite
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setServletPath("/auth/login");
+        request.setRemoteAddr("10.0.0.1");
+        request.setContent(new byte[16 * 1024]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void otherEndpointsAreNotLimited() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+            request.setServletPath("/api/users");
+            filter.doFilter(request, response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+
+    private static MockHttpServletRequest login(String ip, String email) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setServletPath("/auth/login");
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(("{\"email\":\"" + email + "\",\"password\":\"secret\"}").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,81 @@
+package com.ngaland.gestion_utilisateur.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    // 5 requêtes par minute : une requête rendue toutes les 12 secondes
+    private static final long INTERVAL = Duration.ofSeconds(12).toNanos();
+
+    private final RateLimiter limiter = new RateLimiter(1024, 5, Duration.ofMinutes(1));
+
+    @Test
+    void burstEqualsCapacity() {
+        long now = Duration.ofHours(1).toNanos();
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("10.0.0.1", now)).isZero();
+        }
+        assertThat(limiter.tryAcquire("10.0.0.1", now)).isPositive();
+    }
+
+    @Test
+    void rejectionReturnsTimeUntilNextToken() {
+        long now = Duration.ofHours(1).toNanos();
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("10.0.0.1", now);
+        }
+
+        assertThat(limiter.tryAcquire("10.0.0.1", now)).isEqualTo(INTERVAL);
+        assertThat(limiter.tryAcquire("10.0.0.1", now + INTERVAL / 2)).isEqualTo(INTERVAL / 2);
+    }
+
+    @Test
+    void oneTokenIsRefilledAfterPeriodDividedByCapacity() {
+        long now = Duration.ofHours(1).toNanos();
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("10.0.0.1", now);
+        }
+
+        assertThat(limiter.tryAcquire("10.0.0.1", now + INTERVAL - 1)).isPositive();
+        assertThat(limiter.tryAcquire("10.0.0.1", now + INTERVAL)).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1", now + INTERVAL)).isPositive();
+    }
+
+    @Test
+    void rejectedRequestsDoNotConsumeTokens() {
+        long now = Duration.ofHours(1).toNanos();
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire("10.0.0.1", now);
+        }
+
+        assertThat(limiter.tryAcquire("10.0.0.1", now + INTERVAL)).isZero();
+    }
+
+    @Test
+    void idleKeyGetsAFullBucketBack() {
+        long now = Duration.ofHours(1).toNanos();
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("10.0.0.1", now);
+        }
+
+        long later = now + Duration.ofMinutes(1).toNanos();
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("10.0.0.1", later)).isZero();
+        }
+        assertThat(limiter.tryAcquire("10.0.0.1", later)).isPositive();
+    }
+
+    @Test
+    void keysHaveSeparateBuckets() {
+        long now = Duration.ofHours(1).toNanos();
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("10.0.0.1", now);
+        }
+
+        assertThat(limiter.tryAcquire("10.0.0.2", now)).isZero();
+    }
+}
@@ -0,0 +1,117 @@
+package com.ngaland.gestion_utilisateur.service;
+
+import com.ngaland.gestion_utilisateur.model.RefreshToken;
+import com.ngaland.gestion_utilisateur.model.User;
+import com.ngaland.gestion_utilisateur.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceTest {
+
+    private RefreshTokenRepository repository;
+    private RefreshTokenService service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RefreshTokenRepository.class);
+        service = new RefreshTokenService(repository);
+        ReflectionTestUtils.setField(service, "refreshExpirationInMs", 1_209_600_000L);
+        user = new User();
+        user.setId(42L);
+        user.setEmail("jane@example.com");
+    }
+
+    @Test
+    void issuedTokenIsStoredOnlyAsItsHash() {
+        String rawToken = service.issue(user);
+
+        RefreshToken stored = savedToken();
+        assertThat(stored.getTokenHash()).hasSize(64).doesNotContain(rawToken);
+        assertThat(stored.getUser()).isSameAs(user);
+        assertThat(stored.getExpiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    void tokenCanBeConsumedOnlyOnce() {
+        String rawToken = service.issue(user);
+        RefreshToken stored = savedToken();
+        stored.setId(7L);
+        when(repository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        // Le premier DELETE supprime la ligne, le second ne trouve plus rien
+        when(repository.consumeById(7L)).thenReturn(1, 0);
+
+        assertThat(service.consume(rawToken)).isSameAs(user);
+        assertThatThrownBy(() -> service.consume(rawToken)).isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void expiredTokenIsRejectedWithoutBeingDeleted() {
+        String rawToken = service.issue(user);
+        RefreshToken stored = savedToken();
+        stored.setId(7L);
+        stored.setExpiresAt(Instant.now().minusSeconds(1));
+        when(repository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+
+        assertThatThrownBy(() -> service.consume(rawToken)).isInstanceOf(BadCredentialsException.class);
+        verify(repository, never()).consumeById(anyLong());
+    }
+
+    @Test
+    void unknownTokenIsRejected() {
+        when(repository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.consume("unknown")).isInstanceOf(BadCredentialsException.class);
+        verify(repository, never()).consumeById(anyLong());
+    }
+
+    @Test
+    void blankOrNullTokenIsRejectedWithoutDatabaseLookup() {
+        assertThatThrownBy(() -> service.consume(null)).isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> service.consume("  ")).isInstanceOf(BadCredentialsException.class);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void revokeDeletesTheRowOfThatToken() {
+        String rawToken = service.issue(user);
+        String hash = savedToken().getTokenHash();
+
+        service.revoke(rawToken);
+        service.revoke(null);
+
+        verify(repository).deleteByTokenHash(hash);
+        verify(repository, times(1)).deleteByTokenHash(anyString());
+    }
+
+    @Test
+    void revokeAllForUserDeletesEveryRowOfThatUser() {
+        service.revokeAllForUser(42L);
+
+        verify(repository).deleteByUserId(42L);
+        verify(repository, never()).deleteByTokenHash(anyString());
+    }
+
+    private RefreshToken savedToken() {
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(repository).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,119 @@
+package com.ngaland.gestion_utilisateur.service;
+
+import com.ngaland.gestion_utilisateur.model.RevokedToken;
+import com.ngaland.gestion_utilisateur.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationServiceTest {
+
+    private static final String EMAIL = "jane@example.com";
+    private static final Instant REVOKED_AT = Instant.parse("2026-01-01T10:00:00Z");
+
+    private RevokedTokenRepository repository;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RevokedTokenRepository.class);
+        service = new TokenRevocationService(repository);
+        ReflectionTestUtils.setField(service, "jwtExpirationInMs", 900_000L);
+        ReflectionTestUtils.setField(service, "expectedInsertions", 1_000);
+        ReflectionTestUtils.setField(service, "falsePositiveRate", 0.01);
+    }
+
+    @Test
+    void tokenNotInFilterIsAcceptedWithoutDatabaseLookup() {
+        when(repository.findActiveIds(any())).thenReturn(List.of());
+        service.rebuild();
+
+        assertThat(service.isRevoked(claims("token-1", REVOKED_AT))).isFalse();
+        verify(repository, never()).existsById(anyString());
+        verify(repository, never()).findById(anyString());
+    }
+
+    @Test
+    void revokedTokenIsRejectedButOtherTokensOfTheUserAreNot() {
+        when(repository.findActiveIds(any())).thenReturn(List.of());
+        service.rebuild();
+        when(repository.existsById("jti:token-1")).thenReturn(true);
+
+        service.revokeToken("token-1", Date.from(REVOKED_AT.plusSeconds(900)));
+
+        assertThat(service.isRevoked(claims("token-1", REVOKED_AT))).isTrue();
+        assertThat(service.isRevoked(claims("token-2", REVOKED_AT))).isFalse();
+    }
+
+    @Test
+    void userRevocationRejectsTokensIssuedBeforeItsSecond() {
+        revokeUserAt(REVOKED_AT);
+
+        assertThat(service.isRevoked(claims("token-1", REVOKED_AT.minusSeconds(1)))).isTrue();
+        assertThat(service.isRevoked(claims("token-2", null))).isTrue();
+    }
+
+    @Test
+    void userRevocationAcceptsTokensIssuedFromItsSecondOn() {
+        revokeUserAt(REVOKED_AT);
+
+        // Reconnexion dans la même seconde que la révocation (iat tronqué à la seconde)
+        assertThat(service.isRevoked(claims("token-1", REVOKED_AT))).isFalse();
+        assertThat(service.isRevoked(claims("token-2", REVOKED_AT.plusSeconds(1)))).isFalse();
+    }
+
+    @Test
+    void userRevocationIsStoredTruncatedToTheSecond() {
+        when(repository.findActiveIds(any())).thenReturn(List.of());
+        service.rebuild();
+
+        service.revokeAllForUser(EMAIL);
+
+        ArgumentCaptor<RevokedToken> saved = ArgumentCaptor.forClass(RevokedToken.class);
+        verify(repository).save(saved.capture());
+        assertThat(saved.getValue().getId()).isEqualTo("sub:" + EMAIL);
+        assertThat(saved.getValue().getRevokedAt().getNano()).isZero();
+        assertThat(saved.getValue().getExpiresAt()).isAfter(saved.getValue().getRevokedAt());
+    }
+
+    @Test
+    void databaseIsConsultedUntilTheFilterIsLoaded() {
+        when(repository.existsById("jti:token-1")).thenReturn(true);
+
+        assertThat(service.isRevoked(claims("token-1", REVOKED_AT))).isTrue();
+        assertThat(service.isRevoked(claims("token-2", REVOKED_AT))).isFalse();
+        verify(repository).findById("sub:" + EMAIL);
+    }
+
+    private void revokeUserAt(Instant revokedAt) {
+        when(repository.findActiveIds(any())).thenReturn(List.of("sub:" + EMAIL));
+        when(repository.findById("sub:" + EMAIL)).thenReturn(Optional.of(
+                new RevokedToken("sub:" + EMAIL, revokedAt, revokedAt.plusSeconds(900))));
+        service.rebuild();
+    }
+
+    private static Claims claims(String tokenId, Instant issuedAt) {
+        Claims claims = Jwts.claims().setSubject(EMAIL);
+        claims.setId(tokenId);
+        if (issuedAt != null) {
+            claims.setIssuedAt(Date.from(issuedAt));
+        }
+        return claims;
+    }
+}